@@ -0,0 +1,54 @@
+#!/bin/bash
+
+# Aerospike UI - Fast startup
+#
+#   ./fast-start.sh build   Build the AOT-processed jar, extract it and create
+#                           a class-data sharing archive with a training run
+#   ./fast-start.sh [args]  Start from the extracted app and archive, building
+#                           them first only if they are missing
+#
+# Re-run "build" after code or dependency changes, the archive is only valid
+# for the classes it was created from.
+
+set -e
+cd "$(dirname "$0")"
+
+JAR=target/aerospike-ui-1.0.0.jar
+EXTRACTED=target/extracted
+ARCHIVE=target/aerospike-ui.jsa
+
+build() {
+    ./mvnw -q -Pfast-startup clean package -DskipTests
+
+    # CDS works best on an exploded application, so unpack the layers into one directory
+    rm -rf "$EXTRACTED" target/layers
+    java -Djarmode=layertools -jar "$JAR" extract --destination target/layers
+    mkdir -p "$EXTRACTED"
+    for layer in dependencies spring-boot-loader snapshot-dependencies application; do
+        cp -R "target/layers/$layer/." "$EXTRACTED/"
+    done
+
+    # Training run: connect and warm up once so the client, cluster-tend, scan and
+    # serialization classes are archived too, then exit and dump the loaded classes.
+    # Without a reachable cluster only the startup classes are captured.
+    (cd "$EXTRACTED" && java -XX:ArchiveClassesAtExit="../../$ARCHIVE" \
+        -Dspring.aot.enabled=true -Dserver.port=0 \
+        -Daerospike.startup.connect-on-start=true \
+        -Daerospike.startup.warm-up-iterations=1 \
+        -Daerospike.startup.exit-after-warm-up=true \
+        org.springframework.boot.loader.launch.JarLauncher)
+}
+
+if [ "$1" = "build" ]; then
+    build
+    exit 0
+fi
+
+if [ ! -d "$EXTRACTED" ] || [ ! -f "$ARCHIVE" ]; then
+    build
+fi
+
+cd "$EXTRACTED"
+exec java -XX:SharedArchiveFile="../../$ARCHIVE" \
+    -Dspring.aot.enabled=true -Daerospike.startup.connect-on-start=true \
+    org.springframework.boot.loader.launch.JarLauncher "$@"
@@ -0,0 +1,63 @@
+package com.aerospike.ui.config;
+
+import com.aerospike.ui.service.AerospikeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records the time from JVM start until the first successful API response
+ * that read from the cluster, as the application.first-request.time metric.
+ * Requests only count while connected, and connection management and result
+ * set calls served from memory are excluded.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class StartupMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final AerospikeService aerospikeService;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                        Object handler, Exception ex) {
+                if (ex == null && response.getStatus() < 400 && readsCluster(request)
+                        && aerospikeService.isConnected() && recorded.compareAndSet(false, true)) {
+                    long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+                    TimeGauge.builder("application.first-request.time", () -> uptimeMs, TimeUnit.MILLISECONDS)
+                            .description("Time from JVM start until the first successful API request")
+                            .register(meterRegistry);
+                    log.info("First successful request {} completed {} ms after JVM start",
+                            request.getRequestURI(), uptimeMs);
+                }
+            }
+        }).addPathPatterns("/api/**")
+                // These answer 200 without reading data, /api/connect even when the connection failed
+                .excludePathPatterns("/api/connect", "/api/disconnect", "/api/cluster-info");
+    }
+
+    // Of the result set calls only opening one scans the cluster
+    private static boolean readsCluster(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/result-sets")) {
+            return "POST".equals(request.getMethod()) && path.equals("/api/result-sets");
+        }
+        return true;
+    }
+}
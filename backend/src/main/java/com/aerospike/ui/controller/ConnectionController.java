@@ -3,6 +3,8 @@ package com.aerospike.ui.controller;
 import com.aerospike.ui.model.ConnectionInfo;
 import com.aerospike.ui.model.ConnectionRequest;
 import com.aerospike.ui.service.AerospikeService;
+import com.aerospike.ui.service.ResultSetService;
+import com.aerospike.ui.service.SetProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,9 +15,14 @@ import org.springframework.web.bind.annotation.*;
 public class ConnectionController {
 
     private final AerospikeService aerospikeService;
+    private final SetProfileService setProfileService;
+    private final ResultSetService resultSetService;
 
     @PostMapping("/connect")
     public ResponseEntity<ConnectionInfo> connect(@RequestBody ConnectionRequest request) {
+        // Cached profiles and result sets belong to the previous cluster
+        setProfileService.invalidateAll();
+        resultSetService.releaseAll();
         ConnectionInfo info = aerospikeService.connect(request);
         return ResponseEntity.ok(info);
     }
@@ -23,6 +30,8 @@ public class ConnectionController {
     @PostMapping("/disconnect")
     public ResponseEntity<Void> disconnect() {
         aerospikeService.disconnect();
+        setProfileService.invalidateAll();
+        resultSetService.releaseAll();
         return ResponseEntity.ok().build();
     }
 
@@ -2,7 +2,9 @@ package com.aerospike.ui.controller;
 
 import com.aerospike.ui.model.NamespaceInfo;
 import com.aerospike.ui.model.SetInfo;
+import com.aerospike.ui.model.SetProfile;
 import com.aerospike.ui.service.AerospikeService;
+import com.aerospike.ui.service.SetProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +17,7 @@ import java.util.List;
 public class NamespaceController {
 
     private final AerospikeService aerospikeService;
+    private final SetProfileService setProfileService;
 
     @GetMapping("/namespaces")
     public ResponseEntity<List<NamespaceInfo>> getNamespaces() {
@@ -27,4 +30,14 @@ public class NamespaceController {
         List<SetInfo> sets = aerospikeService.getSets(namespace);
         return ResponseEntity.ok(sets);
     }
+
+    @GetMapping("/namespaces/{namespace}/sets/{setName}/profile")
+    public ResponseEntity<SetProfile> getSetProfile(
+            @PathVariable String namespace,
+            @PathVariable String setName,
+            @RequestParam(required = false) Double sampleFraction,
+            @RequestParam(required = false, defaultValue = "false") boolean refresh) {
+        SetProfile profile = setProfileService.getProfile(namespace, setName, sampleFraction, refresh);
+        return ResponseEntity.ok(profile);
+    }
 }
@@ -0,0 +1,58 @@
+package com.aerospike.ui.controller;
+
+import com.aerospike.ui.model.ResultSetInfo;
+import com.aerospike.ui.model.ResultSetPage;
+import com.aerospike.ui.model.ResultSetQuery;
+import com.aerospike.ui.model.ResultSetRequest;
+import com.aerospike.ui.service.ResultSetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/result-sets")
+@RequiredArgsConstructor
+public class ResultSetController {
+
+    private final ResultSetService resultSetService;
+
+    @PostMapping
+    public ResponseEntity<ResultSetInfo> openResultSet(@RequestBody ResultSetRequest request) {
+        ResultSetInfo info = resultSetService.open(request);
+        return ResponseEntity.ok(info);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ResultSetInfo>> listResultSets() {
+        return ResponseEntity.ok(resultSetService.list());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ResultSetInfo> getResultSet(@PathVariable String id) {
+        ResultSetInfo info = resultSetService.getInfo(id);
+        if (info == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(info);
+    }
+
+    @PostMapping("/{id}/query")
+    public ResponseEntity<ResultSetPage> queryResultSet(
+            @PathVariable String id,
+            @RequestBody ResultSetQuery query) {
+        ResultSetPage page = resultSetService.query(id, query);
+        if (page == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Boolean>> releaseResultSet(@PathVariable String id) {
+        boolean released = resultSetService.release(id);
+        return ResponseEntity.ok(Map.of("released", released));
+    }
+}
@@ -0,0 +1,21 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BinProfile {
+    private String name;
+    private Long presentCount;
+    // Fraction of sampled records without the bin; scans never return null bins
+    private Double missingRatio;
+    private Map<String, Long> typeCounts;
+    private SizeHistogram size;
+}
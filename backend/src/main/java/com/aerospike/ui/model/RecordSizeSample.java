@@ -0,0 +1,13 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordSizeSample {
+    private Object key;
+    private Long sizeBytes;
+}
@@ -0,0 +1,25 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultSetInfo {
+    private String id;
+    private String namespace;
+    private String setName;
+    private Integer recordCount;
+    private Long sizeBytes;
+    // True when the scan stopped early at the memory cap
+    private Boolean truncated;
+    private List<String> bins;
+    private Long createdAt;
+    private Long lastAccessedAt;
+}
@@ -0,0 +1,20 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultSetPage {
+    private String id;
+    private Integer totalMatches;
+    private Integer page;
+    private Integer pageSize;
+    private List<RecordData> records;
+}
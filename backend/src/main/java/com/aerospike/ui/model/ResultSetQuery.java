@@ -0,0 +1,15 @@
+package com.aerospike.ui.model;
+
+import lombok.Data;
+
+@Data
+public class ResultSetQuery {
+    // Bin to sort by, natural scan order when null
+    private String sortBin;
+    private boolean descending;
+    // Bin to filter on, any bin or the key when null
+    private String filterBin;
+    private String filterText;
+    private Integer page = 0;
+    private Integer pageSize = 100;
+}
@@ -0,0 +1,14 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultSetRequest {
+    private String namespace;
+    private String setName;
+    private Integer maxRecords = 10000;
+}
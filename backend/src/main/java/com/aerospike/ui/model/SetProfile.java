@@ -0,0 +1,27 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetProfile {
+    private String namespace;
+    private String setName;
+    private Double sampleFraction;
+    private Integer sampledPartitions;
+    private Integer totalPartitions;
+    private Long sampledRecords;
+    private List<BinProfile> bins;
+    private SizeHistogram recordSize;
+    private List<RecordSizeSample> largestRecords;
+    private Long generatedAt;
+    private Long expiresAt;
+    private Long durationMs;
+}
@@ -0,0 +1,32 @@
+package com.aerospike.ui.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SizeHistogram {
+    private Long count;
+    private Long minBytes;
+    private Long maxBytes;
+    private Double meanBytes;
+    private Long p50Bytes;
+    private Long p90Bytes;
+    private Long p99Bytes;
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        // Inclusive upper bound of the bucket, in bytes
+        private Long upperBoundBytes;
+        private Long count;
+    }
+}
@@ -24,27 +24,30 @@ public class AerospikeService {
     private final Map<String, Object> connectionMetadata = new ConcurrentHashMap<>();
 
     public ConnectionInfo connect(ConnectionRequest request) {
+        String host = request.getHost() != null ? request.getHost() : "localhost";
+        Integer port = request.getPort() != null ? request.getPort() : 3000;
+
+        ClientPolicy policy = new ClientPolicy();
+        if (request.getUsername() != null && request.getPassword() != null) {
+            policy.user = request.getUsername();
+            policy.password = request.getPassword();
+        }
+
+        return connect(policy, new Host[] { new Host(host, port) });
+    }
+
+    public ConnectionInfo connect(ClientPolicy policy, Host[] hosts) {
         try {
             // Close existing connection if any
             if (client != null && client.isConnected()) {
                 client.close();
             }
 
-            String host = request.getHost() != null ? request.getHost() : "localhost";
-            Integer port = request.getPort() != null ? request.getPort() : 3000;
-
-            ClientPolicy policy = new ClientPolicy();
-            if (request.getUsername() != null && request.getPassword() != null) {
-                policy.user = request.getUsername();
-                policy.password = request.getPassword();
-            }
-
-            Host[] hosts = new Host[] { new Host(host, port) };
             client = new AerospikeClient(policy, hosts);
 
             // Store connection info
-            connectionMetadata.put("host", host);
-            connectionMetadata.put("port", port);
+            connectionMetadata.put("host", hosts[0].name);
+            connectionMetadata.put("port", hosts[0].port);
 
             return getConnectionInfo();
         } catch (Exception e) {
@@ -336,6 +339,15 @@ public class AerospikeService {
         }
     }
 
+    public boolean isConnected() {
+        return client != null && client.isConnected();
+    }
+
+    public AerospikeClient getClient() {
+        ensureConnected();
+        return client;
+    }
+
     private void ensureConnected() {
         if (client == null || !client.isConnected()) {
             throw new RuntimeException("Not connected to Aerospike. Please connect first.");
@@ -0,0 +1,446 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.ui.model.RecordData;
+import com.aerospike.ui.model.ResultSetInfo;
+import com.aerospike.ui.model.ResultSetQuery;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongPredicate;
+
+/**
+ * Snapshot of a scan held outside the Java heap. Each record is stored in
+ * fixed-size direct chunks as its {@link RecordCodec} encoding followed by a
+ * filter section: the lower-cased UTF-8 text of the key and of every bin,
+ * tagged with the bin's dictionary id. The heap only holds primitive arrays:
+ * chunk positions and lengths, and per bin a presence bitmap plus a double
+ * column for numeric values. Sort and filter run over those and the filter
+ * sections, and only the records on the returned page are decoded.
+ *
+ * Memory is reserved against the owning budget before it is allocated,
+ * including the worst-case size of the lazily built sort indexes. When the
+ * budget or the per-set limit refuses a reservation the set is marked
+ * truncated and the scan is aborted from the callback.
+ */
+class OffHeapResultSet {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Dictionary id of the key in the filter section
+    private static final int KEY_ID = -1;
+    // Per record: chunk position, record length and filter section length
+    private static final long RECORD_SLOT_BYTES = 8 + 4 + 4;
+    // Per record and bin: number, presence bit (rounded up) and worst-case sort index entry
+    private static final long COLUMN_SLOT_BYTES = 8 + 1 + 4;
+
+    private final String id;
+    private final String namespace;
+    private final String setName;
+    private final long maxBytes;
+    private final LongPredicate budget;
+    private final long createdAt = System.currentTimeMillis();
+    private volatile long lastAccessedAt = createdAt;
+    private volatile long reservedBytes;
+    private volatile boolean truncated;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int capacity;
+    private long[] positions = new long[0];
+    private int[] recordLengths = new int[0];
+    private int[] filterLengths = new int[0];
+    private int count;
+    private boolean sealed;
+    // Bin name to dictionary id, the id indexes columns
+    private final Map<String, Integer> dictionary = new TreeMap<>();
+    private final List<Column> columns = new ArrayList<>();
+    private final Map<String, SortIndex> sortIndexes = new ConcurrentHashMap<>();
+
+    OffHeapResultSet(String id, String namespace, String setName, long maxBytes, LongPredicate budget) {
+        this.id = id;
+        this.namespace = namespace;
+        this.setName = setName;
+        this.maxBytes = maxBytes;
+        this.budget = budget;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Stores a record, or throws ScanTerminated once the memory budget is
+     * exhausted. Records arriving after that are dropped. Synchronized
+     * because scan callbacks may arrive from several node threads.
+     */
+    synchronized void append(RecordData record) {
+        if (sealed) {
+            throw new IllegalStateException("Result set " + id + " is read-only");
+        }
+        if (truncated) {
+            return;
+        }
+
+        Map<String, Object> bins = record.getBins() != null ? record.getBins() : Map.of();
+        byte[] encoded = RecordCodec.encode(record);
+        byte[] filter = encodeFilterSection(record.getKey(), bins);
+        int length = encoded.length + filter.length;
+
+        // Work out everything this record allocates and reserve it up front
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        boolean newChunk = chunk == null || chunk.remaining() < length;
+        int chunkSize = Math.max(CHUNK_SIZE, length);
+
+        int newCapacity = count < capacity ? capacity : Math.max(INITIAL_CAPACITY, capacity * 2);
+        long required = (newChunk ? chunkSize : 0)
+                + (newCapacity - capacity) * (RECORD_SLOT_BYTES + columns.size() * COLUMN_SLOT_BYTES);
+        for (String bin : bins.keySet()) {
+            if (!dictionary.containsKey(bin)) {
+                required += newCapacity * COLUMN_SLOT_BYTES;
+            }
+        }
+        reserve(required);
+
+        if (newChunk) {
+            chunk = ByteBuffer.allocateDirect(chunkSize);
+            chunks.add(chunk);
+        }
+        if (newCapacity != capacity) {
+            grow(newCapacity);
+        }
+
+        int offset = chunk.position();
+        chunk.put(encoded);
+        chunk.put(filter);
+        positions[count] = ((long) (chunks.size() - 1) << 32) | offset;
+        recordLengths[count] = encoded.length;
+        filterLengths[count] = filter.length;
+
+        for (Map.Entry<String, Object> entry : bins.entrySet()) {
+            columns.get(binId(entry.getKey())).set(count, entry.getValue());
+        }
+        count++;
+    }
+
+    synchronized void seal() {
+        sealed = true;
+    }
+
+    ResultSetInfo toInfo() {
+        return ResultSetInfo.builder()
+                .id(id)
+                .namespace(namespace)
+                .setName(setName)
+                .recordCount(count)
+                .sizeBytes(reservedBytes)
+                .truncated(truncated)
+                .bins(new ArrayList<>(dictionary.keySet()))
+                .createdAt(createdAt)
+                .lastAccessedAt(lastAccessedAt)
+                .build();
+    }
+
+    /**
+     * Returns the indexes of the records matching the query, in sort order.
+     */
+    int[] select(ResultSetQuery query) {
+        lastAccessedAt = System.currentTimeMillis();
+        int[] order = query.getSortBin() != null ? sortIndex(query.getSortBin()).ordered(query.isDescending())
+                : identity(query.isDescending());
+
+        String filterText = query.getFilterText();
+        if (filterText == null || filterText.isEmpty()) {
+            return order;
+        }
+
+        byte[] needle = filterText.toLowerCase().getBytes(StandardCharsets.UTF_8);
+        Integer binId = null;
+        if (query.getFilterBin() != null) {
+            binId = dictionary.get(query.getFilterBin());
+            if (binId == null) {
+                return new int[0];
+            }
+        }
+
+        Integer filterId = binId;
+        return Arrays.stream(order)
+                .filter(i -> filterMatches(i, filterId, needle))
+                .toArray();
+    }
+
+    RecordData read(int index) {
+        long position = positions[index];
+        byte[] bytes = new byte[recordLengths[index]];
+        chunk(position).get(offset(position), bytes);
+        return RecordCodec.decode(bytes, namespace, setName);
+    }
+
+    private void reserve(long bytes) {
+        if (reservedBytes + bytes > maxBytes || !budget.test(bytes)) {
+            truncated = true;
+            throw new AerospikeException.ScanTerminated();
+        }
+        reservedBytes += bytes;
+    }
+
+    private int binId(String bin) {
+        Integer binId = dictionary.get(bin);
+        if (binId == null) {
+            binId = columns.size();
+            dictionary.put(bin, binId);
+            columns.add(new Column(capacity));
+        }
+        return binId;
+    }
+
+    private void grow(int newCapacity) {
+        positions = Arrays.copyOf(positions, newCapacity);
+        recordLengths = Arrays.copyOf(recordLengths, newCapacity);
+        filterLengths = Arrays.copyOf(filterLengths, newCapacity);
+        for (Column column : columns) {
+            column.grow(newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    // Sequence of (dictionary id, length, lower-cased UTF-8 text) entries.
+    // Ids for new bins are assigned in the same order binId() will assign them.
+    private byte[] encodeFilterSection(Object key, Map<String, Object> bins) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeFilterEntry(out, KEY_ID, key);
+            int nextId = columns.size();
+            Map<String, Integer> pending = new HashMap<>();
+            for (Map.Entry<String, Object> entry : bins.entrySet()) {
+                Integer binId = dictionary.get(entry.getKey());
+                if (binId == null) {
+                    binId = pending.computeIfAbsent(entry.getKey(), k -> pending.size() + nextId);
+                }
+                writeFilterEntry(out, binId, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeFilterEntry(DataOutputStream out, int binId, Object value) throws IOException {
+        String text = filterText(value);
+        if (text == null) {
+            return;
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(binId);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    // Blobs and digests are matched on their hex form
+    static String filterText(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return HexFormat.of().formatHex(bytes);
+        }
+        return String.valueOf(value).toLowerCase();
+    }
+
+    // binId null matches the key or any bin
+    private boolean filterMatches(int index, Integer binId, byte[] needle) {
+        long position = positions[index];
+        ByteBuffer chunk = chunk(position);
+        int cursor = offset(position) + recordLengths[index];
+        int end = cursor + filterLengths[index];
+
+        while (cursor < end) {
+            int entryId = chunk.getInt(cursor);
+            int length = chunk.getInt(cursor + 4);
+            int start = cursor + 8;
+            if ((binId == null || binId == entryId) && contains(chunk, start, length, needle)) {
+                return true;
+            }
+            cursor = start + length;
+        }
+        return false;
+    }
+
+    private static boolean contains(ByteBuffer chunk, int from, int length, byte[] needle) {
+        int last = from + length - needle.length;
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < needle.length && chunk.get(i + j) == needle[j]) {
+                j++;
+            }
+            if (j == needle.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String binText(int index, int binId) {
+        long position = positions[index];
+        ByteBuffer chunk = chunk(position);
+        int cursor = offset(position) + recordLengths[index];
+        int end = cursor + filterLengths[index];
+
+        while (cursor < end) {
+            int length = chunk.getInt(cursor + 4);
+            if (chunk.getInt(cursor) == binId) {
+                byte[] utf8 = new byte[length];
+                chunk.get(cursor + 8, utf8);
+                return new String(utf8, StandardCharsets.UTF_8);
+            }
+            cursor += 8 + length;
+        }
+        return "";
+    }
+
+    private ByteBuffer chunk(long position) {
+        return chunks.get((int) (position >>> 32));
+    }
+
+    private static int offset(long position) {
+        return (int) position;
+    }
+
+    private int[] identity(boolean descending) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = descending ? count - 1 - i : i;
+        }
+        return order;
+    }
+
+    private SortIndex sortIndex(String bin) {
+        return sortIndexes.computeIfAbsent(bin, this::buildSortIndex);
+    }
+
+    // Numeric bins sort on the double column, anything else on its filter text,
+    // which is read from the chunks only while the index is built.
+    // Records without the bin always go last.
+    private SortIndex buildSortIndex(String bin) {
+        Integer binId = dictionary.get(bin);
+        if (binId == null) {
+            return new SortIndex(identity(false), 0);
+        }
+        Column column = columns.get(binId);
+
+        int[] order = new int[count];
+        int present = 0;
+        int missing = count;
+        for (int i = 0; i < count; i++) {
+            if (column.present.get(i)) {
+                order[present++] = i;
+            } else {
+                order[--missing] = i;
+            }
+        }
+        // Missing records were filled from the end, restore scan order
+        reverse(order, present, count);
+
+        IntBinaryOperator comparator;
+        if (column.numeric) {
+            double[] numbers = column.numbers;
+            comparator = (a, c) -> Double.compare(numbers[a], numbers[c]);
+        } else {
+            String[] text = new String[count];
+            for (int i = 0; i < present; i++) {
+                text[order[i]] = binText(order[i], binId);
+            }
+            comparator = (a, c) -> text[a].compareTo(text[c]);
+        }
+        sort(order, present, comparator);
+        return new SortIndex(order, present);
+    }
+
+    // Stable merge sort of the first length entries, on primitive indexes
+    static void sort(int[] order, int length, IntBinaryOperator comparator) {
+        int[] buffer = new int[length];
+        for (int width = 1; width < length; width *= 2) {
+            for (int left = 0; left < length - width; left += 2 * width) {
+                int middle = left + width;
+                int right = Math.min(left + 2 * width, length);
+                int i = left;
+                int j = middle;
+                int k = left;
+                while (i < middle && j < right) {
+                    buffer[k++] = comparator.applyAsInt(order[j], order[i]) < 0 ? order[j++] : order[i++];
+                }
+                while (i < middle) {
+                    buffer[k++] = order[i++];
+                }
+                while (j < right) {
+                    buffer[k++] = order[j++];
+                }
+                System.arraycopy(buffer, left, order, left, right - left);
+            }
+        }
+    }
+
+    private static void reverse(int[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private static class Column {
+        private double[] numbers;
+        private final BitSet present;
+        private boolean numeric = true;
+
+        Column(int capacity) {
+            numbers = new double[capacity];
+            present = new BitSet(capacity);
+        }
+
+        void set(int index, Object value) {
+            if (value == null) {
+                return;
+            }
+            present.set(index);
+            if (value instanceof Number number) {
+                numbers[index] = number.doubleValue();
+            } else {
+                numeric = false;
+            }
+        }
+
+        void grow(int capacity) {
+            numbers = Arrays.copyOf(numbers, capacity);
+        }
+    }
+
+    private record SortIndex(int[] order, int presentCount) {
+        int[] ordered(boolean descending) {
+            if (!descending) {
+                return order;
+            }
+            int[] reversed = order.clone();
+            reverse(reversed, 0, presentCount);
+            return reversed;
+        }
+    }
+}
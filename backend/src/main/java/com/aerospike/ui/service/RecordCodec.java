@@ -0,0 +1,191 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.Value;
+import com.aerospike.ui.model.RecordData;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact tagged binary encoding for records kept in result sets. Unlike a
+ * JSON round trip it preserves value types (integers stay Long, blobs and
+ * digests stay byte[], GeoJSON and HLL stay client values), so records read
+ * back serialize exactly like the ones returned by a plain scan.
+ */
+final class RecordCodec {
+
+    private static final byte NULL = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte STRING = 4;
+    private static final byte BYTES = 5;
+    private static final byte LIST = 6;
+    private static final byte MAP = 7;
+    private static final byte GEOJSON = 8;
+    private static final byte HLL = 9;
+
+    private RecordCodec() {
+    }
+
+    static byte[] encode(RecordData record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeValue(out, record.getKey());
+            writeInteger(out, record.getGeneration());
+            writeInteger(out, record.getExpiration());
+            writeInteger(out, record.getTtl());
+
+            Map<String, Object> bins = record.getBins() != null ? record.getBins() : Map.of();
+            out.writeInt(bins.size());
+            for (Map.Entry<String, Object> entry : bins.entrySet()) {
+                writeString(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static RecordData decode(byte[] data, String namespace, String setName) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            Object key = readValue(in);
+            Integer generation = readInteger(in);
+            Integer expiration = readInteger(in);
+            Integer ttl = readInteger(in);
+
+            int binCount = in.readInt();
+            Map<String, Object> bins = new LinkedHashMap<>(binCount * 2);
+            for (int i = 0; i < binCount; i++) {
+                bins.put(readString(in), readValue(in));
+            }
+
+            return RecordData.builder()
+                    .namespace(namespace)
+                    .setName(setName)
+                    .key(key)
+                    .bins(bins)
+                    .generation(generation)
+                    .expiration(expiration)
+                    .ttl(ttl)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            out.writeByte(LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof byte[] b) {
+            out.writeByte(BYTES);
+            writeBytes(out, b);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof Value.GeoJSONValue geo) {
+            out.writeByte(GEOJSON);
+            writeString(out, geo.toString());
+        } else if (value instanceof Value.HLLValue hll) {
+            out.writeByte(HLL);
+            writeBytes(out, hll.getBytes());
+        } else {
+            // Strings and anything unexpected are kept as text
+            out.writeByte(STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                return readBytes(in);
+            case LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case MAP: {
+                int size = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in), readValue(in));
+                }
+                return map;
+            }
+            case GEOJSON:
+                return new Value.GeoJSONValue(readString(in));
+            case HLL:
+                return new Value.HLLValue(readBytes(in));
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    // Length-prefixed UTF-8, writeUTF is limited to 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+}
@@ -0,0 +1,167 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.ui.model.RecordData;
+import com.aerospike.ui.model.ResultSetInfo;
+import com.aerospike.ui.model.ResultSetPage;
+import com.aerospike.ui.model.ResultSetQuery;
+import com.aerospike.ui.model.ResultSetRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Materializes scans into off-heap result sets addressed by a session
+ * handle, so the UI can sort, filter and page without re-scanning.
+ * All result sets, including ones still being scanned, reserve memory
+ * from one global budget before allocating it. Open result sets are
+ * evicted least-recently-used first to make room, and a scan that
+ * cannot get more memory stops early with a truncated result set. A
+ * single result set may only take a share of the budget, so one large
+ * open cannot evict every other session's result sets.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResultSetService {
+
+    private final AerospikeService aerospikeService;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, OffHeapResultSet> resultSets = new LinkedHashMap<>(16, 0.75f, true);
+    // Held by open result sets and scans in flight, guarded by this
+    private long reservedBytes;
+
+    @Value("${aerospike.result-set.max-memory-bytes:268435456}")
+    private long maxMemoryBytes;
+
+    @Value("${aerospike.result-set.max-records:100000}")
+    private int maxRecords;
+
+    @Value("${aerospike.result-set.max-share:0.5}")
+    private double maxShare;
+
+    public ResultSetInfo open(ResultSetRequest request) {
+        if (request.getNamespace() == null || request.getSetName() == null) {
+            throw new IllegalArgumentException("namespace and setName are required");
+        }
+
+        String namespace = request.getNamespace();
+        String setName = request.getSetName();
+        int limit = request.getMaxRecords() != null && request.getMaxRecords() > 0
+                ? Math.min(request.getMaxRecords(), maxRecords) : maxRecords;
+
+        OffHeapResultSet resultSet = new OffHeapResultSet(UUID.randomUUID().toString(), namespace, setName,
+                (long) (maxMemoryBytes * maxShare), this::tryReserve);
+        ScanPolicy scanPolicy = new ScanPolicy();
+        scanPolicy.maxRecords = limit;
+
+        try {
+            aerospikeService.getClient().scanAll(scanPolicy, namespace, setName, (key, record) ->
+                    resultSet.append(RecordData.builder()
+                            .namespace(namespace)
+                            .setName(setName)
+                            .key(key.userKey != null ? key.userKey.getObject() : key.digest)
+                            .bins(record.bins)
+                            .generation(record.generation)
+                            .expiration(record.expiration)
+                            .ttl(record.getTimeToLive())
+                            .build()));
+        } catch (AerospikeException.ScanTerminated e) {
+            // The result set aborted the scan itself and keeps what it has
+            log.warn("Result set for {}.{} truncated at {} records, {} bytes",
+                    namespace, setName, resultSet.size(), resultSet.getReservedBytes());
+        } catch (Exception e) {
+            releaseReservation(resultSet.getReservedBytes());
+            log.error("Failed to materialize result set from {}.{}", namespace, setName, e);
+            throw new RuntimeException("Failed to open result set: " + e.getMessage(), e);
+        }
+        resultSet.seal();
+
+        synchronized (this) {
+            resultSets.put(resultSet.getId(), resultSet);
+        }
+
+        log.debug("Opened result set {} for {}.{}: {} bytes", resultSet.getId(), namespace, setName,
+                resultSet.getReservedBytes());
+        return resultSet.toInfo();
+    }
+
+    public synchronized List<ResultSetInfo> list() {
+        return resultSets.values().stream()
+                .map(OffHeapResultSet::toInfo)
+                .toList();
+    }
+
+    public ResultSetInfo getInfo(String id) {
+        OffHeapResultSet resultSet = lookup(id);
+        return resultSet != null ? resultSet.toInfo() : null;
+    }
+
+    public ResultSetPage query(String id, ResultSetQuery query) {
+        OffHeapResultSet resultSet = lookup(id);
+        if (resultSet == null) {
+            return null;
+        }
+
+        int page = query.getPage() != null ? Math.max(0, query.getPage()) : 0;
+        int pageSize = query.getPageSize() != null && query.getPageSize() > 0 ? query.getPageSize() : 100;
+
+        int[] matches = resultSet.select(query);
+        List<RecordData> records = new ArrayList<>();
+        long from = (long) page * pageSize;
+        for (long i = from; i < Math.min(from + pageSize, matches.length); i++) {
+            records.add(resultSet.read(matches[(int) i]));
+        }
+
+        return ResultSetPage.builder()
+                .id(id)
+                .totalMatches(matches.length)
+                .page(page)
+                .pageSize(pageSize)
+                .records(records)
+                .build();
+    }
+
+    public synchronized boolean release(String id) {
+        OffHeapResultSet removed = resultSets.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        reservedBytes -= removed.getReservedBytes();
+        return true;
+    }
+
+    public synchronized void releaseAll() {
+        resultSets.values().forEach(resultSet -> reservedBytes -= resultSet.getReservedBytes());
+        resultSets.clear();
+    }
+
+    private synchronized OffHeapResultSet lookup(String id) {
+        return resultSets.get(id);
+    }
+
+    // Direct buffers are freed by the GC once an evicted result set is unreachable
+    private synchronized boolean tryReserve(long bytes) {
+        Iterator<OffHeapResultSet> iterator = resultSets.values().iterator();
+        while (reservedBytes + bytes > maxMemoryBytes && iterator.hasNext()) {
+            OffHeapResultSet eldest = iterator.next();
+            reservedBytes -= eldest.getReservedBytes();
+            iterator.remove();
+            log.debug("Evicted result set {} to stay under the memory cap", eldest.getId());
+        }
+        if (reservedBytes + bytes > maxMemoryBytes) {
+            return false;
+        }
+        reservedBytes += bytes;
+        return true;
+    }
+
+    private synchronized void releaseReservation(long bytes) {
+        reservedBytes -= bytes;
+    }
+}
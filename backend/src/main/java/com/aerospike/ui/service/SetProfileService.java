@@ -0,0 +1,302 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.ui.model.BinProfile;
+import com.aerospike.ui.model.RecordSizeSample;
+import com.aerospike.ui.model.SetProfile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Builds sampled profiles of a set: inferred bin schema, type frequencies,
+ * missing ratios and record/bin size histograms. Only a fraction of the
+ * partitions is scanned, spread across the partition space and split over
+ * a small worker pool. Profiles are cached per set until their TTL expires,
+ * and concurrent requests for the same set share one in-flight build.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SetProfileService {
+
+    private static final int TOTAL_PARTITIONS = 4096;
+    private static final int LARGEST_RECORDS = 10;
+
+    private final AerospikeService aerospikeService;
+    private final Map<String, CachedProfile> cache = new ConcurrentHashMap<>();
+
+    @Value("${aerospike.profile.parallelism:4}")
+    private int parallelism;
+
+    @Value("${aerospike.profile.sample-fraction:0.05}")
+    private double defaultSampleFraction;
+
+    @Value("${aerospike.profile.max-records:50000}")
+    private int maxRecords;
+
+    @Value("${aerospike.profile.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public SetProfile getProfile(String namespace, String setName, Double sampleFraction, boolean refresh) {
+        double fraction = sampleFraction != null ? sampleFraction : defaultSampleFraction;
+        if (fraction <= 0 || fraction > 1) {
+            throw new IllegalArgumentException("sampleFraction must be in (0, 1]");
+        }
+
+        String cacheKey = namespace + "." + setName;
+        CachedProfile created = new CachedProfile(fraction, new CompletableFuture<>());
+        // Reuse a build in flight even on refresh, it is as fresh as a new one
+        CachedProfile entry = cache.compute(cacheKey, (key, existing) ->
+                existing != null && existing.fraction() == fraction
+                        && (existing.isPending() || !refresh && existing.isValid()) ? existing : created);
+
+        if (entry == created) {
+            try {
+                created.future().complete(buildProfile(namespace, setName, fraction));
+            } catch (Throwable e) {
+                // Errors too, a pending entry would block every later caller
+                cache.remove(cacheKey, created);
+                created.future().completeExceptionally(e);
+            }
+        }
+
+        try {
+            return entry.future().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private SetProfile buildProfile(String namespace, String setName, double fraction) {
+        AerospikeClient client = aerospikeService.getClient();
+        long start = System.currentTimeMillis();
+
+        List<Integer> partitions = samplePartitions(fraction);
+        int perPartitionLimit = Math.max(1, maxRecords / partitions.size());
+        int workers = Math.min(Math.max(1, parallelism), partitions.size());
+
+        List<Future<ProfileAccumulator>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            List<Integer> slice = new ArrayList<>();
+            for (int i = w; i < partitions.size(); i += workers) {
+                slice.add(partitions.get(i));
+            }
+            futures.add(executor.submit(() -> scanPartitions(client, namespace, setName, slice, perPartitionLimit)));
+        }
+
+        ProfileAccumulator total = new ProfileAccumulator();
+        try {
+            for (Future<ProfileAccumulator> future : futures) {
+                total.merge(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new RuntimeException("Profiling interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            log.error("Failed to profile set {}.{}", namespace, setName, e.getCause());
+            throw new RuntimeException("Failed to profile set: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        long now = System.currentTimeMillis();
+        log.debug("Profiled {}.{}: {} records from {} partitions in {} ms",
+                namespace, setName, total.sampledRecords, partitions.size(), now - start);
+
+        return SetProfile.builder()
+                .namespace(namespace)
+                .setName(setName)
+                .sampleFraction(fraction)
+                .sampledPartitions(partitions.size())
+                .totalPartitions(TOTAL_PARTITIONS)
+                .sampledRecords(total.sampledRecords)
+                .bins(total.toBinProfiles())
+                .recordSize(total.recordSize.toHistogram())
+                .largestRecords(total.largestRecords())
+                .generatedAt(now)
+                .expiresAt(now + cacheTtlSeconds * 1000)
+                .durationMs(now - start)
+                .build();
+    }
+
+    private ProfileAccumulator scanPartitions(AerospikeClient client, String namespace, String setName,
+                                              List<Integer> partitionIds, int perPartitionLimit) {
+        ProfileAccumulator accumulator = new ProfileAccumulator();
+        ScanPolicy scanPolicy = new ScanPolicy();
+        scanPolicy.maxRecords = perPartitionLimit;
+
+        for (Integer partitionId : partitionIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            client.scanPartitions(scanPolicy, PartitionFilter.id(partitionId), namespace, setName,
+                    accumulator::add);
+        }
+        return accumulator;
+    }
+
+    // Evenly strided partition ids from a random offset, so repeated profiles
+    // don't always hit the same partitions
+    private List<Integer> samplePartitions(double fraction) {
+        int count = (int) Math.max(1, Math.min(TOTAL_PARTITIONS, Math.round(TOTAL_PARTITIONS * fraction)));
+        double stride = (double) TOTAL_PARTITIONS / count;
+        double offset = ThreadLocalRandom.current().nextDouble(stride);
+
+        List<Integer> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add((int) (offset + i * stride) % TOTAL_PARTITIONS);
+        }
+        return partitions;
+    }
+
+    // Approximate wire size of a bin: name plus packed value
+    private static long estimateBinSize(String name, Object value) {
+        long size = name.getBytes(StandardCharsets.UTF_8).length;
+        if (value == null) {
+            return size;
+        }
+        try {
+            return size + com.aerospike.client.Value.get(value).estimateSize();
+        } catch (AerospikeException e) {
+            return size;
+        }
+    }
+
+    private static String typeOf(Object value) {
+        if (value instanceof String) return "string";
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return "integer";
+        if (value instanceof Double || value instanceof Float) return "double";
+        if (value instanceof Boolean) return "boolean";
+        if (value instanceof byte[]) return "blob";
+        if (value instanceof List) return "list";
+        if (value instanceof Map) return "map";
+        if (value instanceof com.aerospike.client.Value.GeoJSONValue) return "geojson";
+        if (value instanceof com.aerospike.client.Value.HLLValue) return "hll";
+        return value.getClass().getSimpleName().toLowerCase();
+    }
+
+    private record CachedProfile(double fraction, CompletableFuture<SetProfile> future) {
+        boolean isPending() {
+            return !future.isDone();
+        }
+
+        boolean isValid() {
+            SetProfile profile = future.getNow(null);
+            return profile != null && System.currentTimeMillis() < profile.getExpiresAt();
+        }
+    }
+
+    private static class BinAccumulator {
+        private long presentCount;
+        private final Map<String, Long> typeCounts = new TreeMap<>();
+        private final SizeSketch size = new SizeSketch();
+
+        void merge(BinAccumulator other) {
+            presentCount += other.presentCount;
+            other.typeCounts.forEach((type, n) -> typeCounts.merge(type, n, Long::sum));
+            size.merge(other.size);
+        }
+    }
+
+    private static class ProfileAccumulator {
+        private long sampledRecords;
+        private final SizeSketch recordSize = new SizeSketch();
+        private final Map<String, BinAccumulator> bins = new HashMap<>();
+        private final PriorityQueue<RecordSizeSample> largest =
+                new PriorityQueue<>(Comparator.comparingLong(RecordSizeSample::getSizeBytes));
+
+        // Scan callbacks may arrive from several node threads
+        synchronized void add(Key key, com.aerospike.client.Record record) {
+            sampledRecords++;
+            long recordBytes = 0;
+
+            if (record.bins != null) {
+                for (Map.Entry<String, Object> entry : record.bins.entrySet()) {
+                    Object value = entry.getValue();
+                    long binBytes = estimateBinSize(entry.getKey(), value);
+                    recordBytes += binBytes;
+
+                    BinAccumulator bin = bins.computeIfAbsent(entry.getKey(), k -> new BinAccumulator());
+                    bin.presentCount++;
+                    bin.typeCounts.merge(typeOf(value), 1L, Long::sum);
+                    bin.size.add(binBytes);
+                }
+            }
+
+            recordSize.add(recordBytes);
+            offerLargest(new RecordSizeSample(key.userKey != null ? key.userKey.getObject() : key.digest,
+                    recordBytes));
+        }
+
+        synchronized void merge(ProfileAccumulator other) {
+            sampledRecords += other.sampledRecords;
+            recordSize.merge(other.recordSize);
+            other.bins.forEach((name, bin) -> bins.computeIfAbsent(name, k -> new BinAccumulator()).merge(bin));
+            other.largest.forEach(this::offerLargest);
+        }
+
+        private void offerLargest(RecordSizeSample sample) {
+            if (largest.size() < LARGEST_RECORDS) {
+                largest.add(sample);
+            } else if (largest.peek().getSizeBytes() < sample.getSizeBytes()) {
+                largest.poll();
+                largest.add(sample);
+            }
+        }
+
+        List<RecordSizeSample> largestRecords() {
+            List<RecordSizeSample> result = new ArrayList<>(largest);
+            result.sort(Comparator.comparingLong(RecordSizeSample::getSizeBytes).reversed());
+            return result;
+        }
+
+        List<BinProfile> toBinProfiles() {
+            List<BinProfile> result = new ArrayList<>();
+            bins.forEach((name, bin) -> result.add(BinProfile.builder()
+                    .name(name)
+                    .presentCount(bin.presentCount)
+                    .missingRatio(sampledRecords > 0 ? 1.0 - (double) bin.presentCount / sampledRecords : 0.0)
+                    .typeCounts(bin.typeCounts)
+                    .size(bin.size.toHistogram())
+                    .build()));
+            result.sort(Comparator.comparingLong(BinProfile::getPresentCount).reversed()
+                    .thenComparing(BinProfile::getName));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.ui.model.SizeHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming size sketch with log-linear buckets: each power of two is split
+ * into 16 linear sub-buckets, so values are bucketed within ~6% and quantiles
+ * (bucket midpoints) within ~3%. Memory use is constant regardless of how
+ * many values are added, and sketches from parallel workers can be merged.
+ */
+class SizeSketch {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below SUB_BUCKETS are exact, then 16 buckets per power of two up to 2^63
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    void add(long sizeBytes) {
+        long value = Math.max(0, sizeBytes);
+        counts[bucketIndex(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    void merge(SizeSketch other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    SizeHistogram toHistogram() {
+        if (count == 0) {
+            return SizeHistogram.builder()
+                    .count(0L)
+                    .buckets(List.of())
+                    .build();
+        }
+
+        List<SizeHistogram.Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] > 0) {
+                buckets.add(new SizeHistogram.Bucket(upperBound(i), counts[i]));
+            }
+        }
+
+        return SizeHistogram.builder()
+                .count(count)
+                .minBytes(min)
+                .maxBytes(max)
+                .meanBytes((double) sum / count)
+                .p50Bytes(quantile(0.50))
+                .p90Bytes(quantile(0.90))
+                .p99Bytes(quantile(0.99))
+                .buckets(buckets)
+                .build();
+    }
+
+    private long quantile(double q) {
+        long rank = (long) Math.ceil(q * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long midpoint = lowerBound(i) + (upperBound(i) - lowerBound(i)) / 2;
+                return Math.max(min, Math.min(midpoint, max));
+            }
+        }
+        return max;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << shift;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        return lowerBound(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,175 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.ui.model.ConnectionInfo;
+import com.aerospike.ui.model.NamespaceInfo;
+import com.aerospike.ui.model.RecordData;
+import com.aerospike.ui.model.SetInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Optional startup path that connects from the aerospike.* settings instead
+ * of waiting for /api/connect, pre-fills the per-node connection pools and
+ * exercises the scan and JSON serialization paths so the first UI request
+ * does not pay for class loading, JIT warm-up and cluster tending.
+ *
+ * The flag is checked at runtime rather than through a conditional bean, so
+ * it still applies when the bean graph was fixed by Spring AOT processing.
+ * With exit-after-warm-up set the application exits once warm-up is done,
+ * which is how the CDS training run in fast-start.sh captures the client,
+ * scan and serialization classes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StartupWarmupService {
+
+    private final AerospikeService aerospikeService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${aerospike.startup.connect-on-start:false}")
+    private boolean connectOnStart;
+
+    @Value("${aerospike.startup.warm-up-iterations:3}")
+    private int warmUpIterations;
+
+    @Value("${aerospike.startup.warm-up-records:100}")
+    private int warmUpRecords;
+
+    @Value("${aerospike.startup.exit-after-warm-up:false}")
+    private boolean exitAfterWarmUp;
+
+    @Value("${aerospike.hosts:localhost:3000}")
+    private String hosts;
+
+    @Value("${aerospike.user:}")
+    private String user;
+
+    @Value("${aerospike.password:}")
+    private String password;
+
+    @Value("${aerospike.namespace:}")
+    private String namespace;
+
+    @Value("${aerospike.connection.timeout:1000}")
+    private int connectionTimeout;
+
+    @Value("${aerospike.connection.min-conns-per-node:0}")
+    private int minConnsPerNode;
+
+    @Value("${aerospike.connection.max-conns-per-node:100}")
+    private int maxConnsPerNode;
+
+    @Value("${aerospike.read.socket-timeout:30000}")
+    private int readSocketTimeout;
+
+    @Value("${aerospike.read.total-timeout:1000}")
+    private int readTotalTimeout;
+
+    @Value("${aerospike.read.max-retries:2}")
+    private int readMaxRetries;
+
+    @Value("${aerospike.write.socket-timeout:30000}")
+    private int writeSocketTimeout;
+
+    @Value("${aerospike.write.total-timeout:1000}")
+    private int writeTotalTimeout;
+
+    @Value("${aerospike.write.max-retries:0}")
+    private int writeMaxRetries;
+
+    @Value("${aerospike.batch.socket-timeout:30000}")
+    private int batchSocketTimeout;
+
+    @Value("${aerospike.batch.total-timeout:1000}")
+    private int batchTotalTimeout;
+
+    @Value("${aerospike.batch.max-retries:2}")
+    private int batchMaxRetries;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (connectOnStart) {
+            connectAndWarmUp();
+        }
+        if (exitAfterWarmUp) {
+            log.info("Exiting after warm-up");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    private void connectAndWarmUp() {
+        long start = System.currentTimeMillis();
+        ConnectionInfo info = aerospikeService.connect(buildClientPolicy(), Host.parseHosts(hosts, 3000));
+        if (!info.isConnected()) {
+            log.warn("Startup connection to {} failed: {}", hosts, info.getMessage());
+            return;
+        }
+        log.info("Connected to {} on startup in {} ms", hosts, System.currentTimeMillis() - start);
+
+        try {
+            warmUp();
+            log.info("Warm-up finished in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // Warm-up is best effort, the connection stays usable
+            log.warn("Warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    private ClientPolicy buildClientPolicy() {
+        ClientPolicy policy = new ClientPolicy();
+        if (!user.isEmpty() && !password.isEmpty()) {
+            policy.user = user;
+            policy.password = password;
+        }
+        policy.timeout = connectionTimeout;
+        policy.maxConnsPerNode = maxConnsPerNode;
+        // Connections up to this count are opened when each node is added
+        policy.minConnsPerNode = Math.min(minConnsPerNode, maxConnsPerNode);
+
+        applyTimeouts(policy.readPolicyDefault, readSocketTimeout, readTotalTimeout, readMaxRetries);
+        applyTimeouts(policy.writePolicyDefault, writeSocketTimeout, writeTotalTimeout, writeMaxRetries);
+        applyTimeouts(policy.batchPolicyDefault, batchSocketTimeout, batchTotalTimeout, batchMaxRetries);
+        return policy;
+    }
+
+    private void applyTimeouts(Policy policy, int socketTimeout, int totalTimeout, int maxRetries) {
+        policy.socketTimeout = socketTimeout;
+        policy.totalTimeout = totalTimeout;
+        policy.maxRetries = maxRetries;
+    }
+
+    // Runs the same info, scan and serialization calls the UI makes first
+    private void warmUp() throws Exception {
+        for (int i = 0; i < warmUpIterations; i++) {
+            List<NamespaceInfo> namespaces = aerospikeService.getNamespaces();
+            objectMapper.writeValueAsBytes(namespaces);
+
+            String target = !namespace.isEmpty() ? namespace
+                    : namespaces.isEmpty() ? null : namespaces.get(0).getName();
+            if (target == null) {
+                return;
+            }
+
+            List<SetInfo> sets = aerospikeService.getSets(target);
+            objectMapper.writeValueAsBytes(sets);
+            if (sets.isEmpty()) {
+                continue;
+            }
+
+            List<RecordData> records = aerospikeService.scanRecords(target, sets.get(0).getSetName(), warmUpRecords);
+            objectMapper.writeValueAsBytes(records);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.ui.model.RecordData;
+import com.aerospike.ui.model.ResultSetQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapResultSetTest {
+
+    private static OffHeapResultSet unbounded() {
+        return new OffHeapResultSet("id", "ns", "set", Long.MAX_VALUE, bytes -> true);
+    }
+
+    private static RecordData record(Object key, Object... binPairs) {
+        Map<String, Object> bins = new LinkedHashMap<>();
+        for (int i = 0; i < binPairs.length; i += 2) {
+            bins.put((String) binPairs[i], binPairs[i + 1]);
+        }
+        return RecordData.builder().key(key).bins(bins).generation(1).build();
+    }
+
+    private static ResultSetQuery sortBy(String bin, boolean descending) {
+        ResultSetQuery query = new ResultSetQuery();
+        query.setSortBin(bin);
+        query.setDescending(descending);
+        return query;
+    }
+
+    private static ResultSetQuery filter(String bin, String text) {
+        ResultSetQuery query = new ResultSetQuery();
+        query.setFilterBin(bin);
+        query.setFilterText(text);
+        return query;
+    }
+
+    private static Object[] keys(OffHeapResultSet resultSet, int[] order) {
+        Object[] keys = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = resultSet.read(order[i]).getKey();
+        }
+        return keys;
+    }
+
+    @Test
+    void sortsNumericBinWithMissingLast() {
+        OffHeapResultSet resultSet = unbounded();
+        resultSet.append(record("a", "n", 30L));
+        resultSet.append(record("b"));
+        resultSet.append(record("c", "n", 10L));
+        resultSet.append(record("d", "n", 20.5));
+        resultSet.append(record("e"));
+        resultSet.seal();
+
+        assertArrayEquals(new Object[] { "c", "d", "a", "b", "e" },
+                keys(resultSet, resultSet.select(sortBy("n", false))));
+        assertArrayEquals(new Object[] { "a", "d", "c", "b", "e" },
+                keys(resultSet, resultSet.select(sortBy("n", true))));
+    }
+
+    @Test
+    void sortsTextBinAndKeepsScanOrderForTies() {
+        OffHeapResultSet resultSet = unbounded();
+        resultSet.append(record("a", "s", "pear"));
+        resultSet.append(record("b", "s", "Apple"));
+        resultSet.append(record("c", "s", "pear"));
+        resultSet.append(record("d", "s", 5L));
+        resultSet.seal();
+
+        assertArrayEquals(new Object[] { "d", "b", "a", "c" },
+                keys(resultSet, resultSet.select(sortBy("s", false))));
+    }
+
+    @Test
+    void unknownSortBinKeepsScanOrder() {
+        OffHeapResultSet resultSet = unbounded();
+        resultSet.append(record("a", "n", 2L));
+        resultSet.append(record("b", "n", 1L));
+        resultSet.seal();
+
+        assertArrayEquals(new Object[] { "a", "b" }, keys(resultSet, resultSet.select(sortBy("x", false))));
+    }
+
+    @Test
+    void filtersOnBinKeyAndBlobHex() {
+        OffHeapResultSet resultSet = unbounded();
+        resultSet.append(record("user-1", "name", "Alice", "tag", new byte[] { (byte) 0xAB, 0x01 }));
+        resultSet.append(record("user-2", "name", "Bob"));
+        resultSet.append(record(new byte[] { 0x0F }, "name", "Carol", "note", "alice's friend"));
+        resultSet.seal();
+
+        assertEquals(1, resultSet.select(filter("name", "ALICE")).length);
+        assertEquals(2, resultSet.select(filter(null, "alice")).length);
+        assertEquals(1, resultSet.select(filter(null, "user-2")).length);
+        assertEquals(1, resultSet.select(filter("tag", "ab01")).length);
+        assertEquals(1, resultSet.select(filter(null, "0f")).length);
+        assertEquals(0, resultSet.select(filter("missing", "alice")).length);
+    }
+
+    @Test
+    void filterAppliesAfterSort() {
+        OffHeapResultSet resultSet = unbounded();
+        resultSet.append(record("a", "n", 3L, "s", "keep"));
+        resultSet.append(record("b", "n", 1L, "s", "drop"));
+        resultSet.append(record("c", "n", 2L, "s", "keep"));
+        resultSet.seal();
+
+        ResultSetQuery query = filter("s", "keep");
+        query.setSortBin("n");
+
+        assertArrayEquals(new Object[] { "c", "a" }, keys(resultSet, resultSet.select(query)));
+    }
+
+    @Test
+    void readPreservesTypes() {
+        OffHeapResultSet resultSet = unbounded();
+        resultSet.append(record(new byte[] { 1 }, "n", 5L, "blob", new byte[] { 2 }));
+        resultSet.seal();
+
+        RecordData decoded = resultSet.read(0);
+        assertInstanceOf(byte[].class, decoded.getKey());
+        assertEquals(5L, decoded.getBins().get("n"));
+        assertInstanceOf(byte[].class, decoded.getBins().get("blob"));
+        assertEquals("ns", decoded.getNamespace());
+    }
+
+    @Test
+    void truncatesAtPerSetLimitAndDropsLaterRecords() {
+        OffHeapResultSet resultSet = new OffHeapResultSet("id", "ns", "set", 2 * 1024 * 1024, bytes -> true);
+        String payload = "x".repeat(100_000);
+
+        int appended = 0;
+        AerospikeException.ScanTerminated terminated = null;
+        for (int i = 0; i < 100 && terminated == null; i++) {
+            try {
+                resultSet.append(record("k" + i, "payload", payload));
+                appended++;
+            } catch (AerospikeException.ScanTerminated e) {
+                terminated = e;
+            }
+        }
+
+        assertNotNull(terminated);
+        assertTrue(resultSet.isTruncated());
+        assertEquals(appended, resultSet.size());
+        assertTrue(resultSet.getReservedBytes() <= 2 * 1024 * 1024);
+
+        // Other node threads keep delivering records after the abort
+        resultSet.append(record("late", "n", 1L));
+        assertEquals(appended, resultSet.size());
+    }
+
+    @Test
+    void truncatesWhenBudgetRefuses() {
+        long[] budget = { 0 };
+        OffHeapResultSet resultSet = new OffHeapResultSet("id", "ns", "set", Long.MAX_VALUE, bytes -> {
+            if (budget[0] + bytes > 1024 * 1024 + 100_000) {
+                return false;
+            }
+            budget[0] += bytes;
+            return true;
+        });
+
+        resultSet.append(record("a", "n", 1L));
+        assertThrows(AerospikeException.ScanTerminated.class,
+                () -> resultSet.append(record("b", "payload", "y".repeat(2 * 1024 * 1024))));
+        assertEquals(1, resultSet.size());
+        assertEquals(budget[0], resultSet.getReservedBytes());
+    }
+
+    @Test
+    void sortHelperIsStable() {
+        int[] order = { 0, 1, 2, 3, 4, 5 };
+        int[] keys = { 3, 1, 3, 2, 1, 0 };
+
+        OffHeapResultSet.sort(order, order.length, (a, b) -> Integer.compare(keys[a], keys[b]));
+
+        assertArrayEquals(new int[] { 5, 1, 4, 3, 0, 2 }, order);
+    }
+}
@@ -0,0 +1,72 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.client.Value;
+import com.aerospike.ui.model.RecordData;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordCodecTest {
+
+    @Test
+    void roundTripPreservesValueTypes() {
+        Map<String, Object> bins = new LinkedHashMap<>();
+        bins.put("long", 42L);
+        bins.put("double", 2.5);
+        bins.put("bool", true);
+        bins.put("string", "hello");
+        bins.put("blob", new byte[] { 1, 2, 3 });
+        bins.put("list", List.of(1L, "two"));
+        bins.put("map", Map.of("k", 7L));
+        bins.put("geo", new Value.GeoJSONValue("{\"type\":\"Point\",\"coordinates\":[1,2]}"));
+        bins.put("hll", new Value.HLLValue(new byte[] { 9, 8 }));
+
+        RecordData record = RecordData.builder()
+                .key(new byte[] { 5, 6 })
+                .bins(bins)
+                .generation(3)
+                .expiration(100)
+                .ttl(null)
+                .build();
+
+        RecordData decoded = RecordCodec.decode(RecordCodec.encode(record), "ns", "set");
+
+        assertEquals("ns", decoded.getNamespace());
+        assertEquals("set", decoded.getSetName());
+        assertArrayEquals(new byte[] { 5, 6 }, (byte[]) decoded.getKey());
+        assertEquals(3, decoded.getGeneration());
+        assertEquals(100, decoded.getExpiration());
+        assertNull(decoded.getTtl());
+
+        Map<String, Object> out = decoded.getBins();
+        assertEquals(List.copyOf(bins.keySet()), List.copyOf(out.keySet()));
+        assertEquals(42L, out.get("long"));
+        assertEquals(2.5, out.get("double"));
+        assertEquals(true, out.get("bool"));
+        assertEquals("hello", out.get("string"));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) out.get("blob"));
+        assertEquals(List.of(1L, "two"), out.get("list"));
+        assertEquals(Map.of("k", 7L), out.get("map"));
+        assertInstanceOf(Value.GeoJSONValue.class, out.get("geo"));
+        assertEquals(bins.get("geo").toString(), out.get("geo").toString());
+        assertInstanceOf(Value.HLLValue.class, out.get("hll"));
+        assertArrayEquals(new byte[] { 9, 8 }, ((Value.HLLValue) out.get("hll")).getBytes());
+    }
+
+    @Test
+    void integersAreWidenedToLong() {
+        RecordData record = RecordData.builder()
+                .key("k")
+                .bins(Map.of("int", 7))
+                .build();
+
+        RecordData decoded = RecordCodec.decode(RecordCodec.encode(record), "ns", "set");
+
+        assertEquals("k", decoded.getKey());
+        assertEquals(7L, decoded.getBins().get("int"));
+    }
+}
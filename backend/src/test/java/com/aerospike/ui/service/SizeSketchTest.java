@@ -0,0 +1,68 @@
+package com.aerospike.ui.service;
+
+import com.aerospike.ui.model.SizeHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SizeSketchTest {
+
+    @Test
+    void emptySketchHasNoBuckets() {
+        SizeHistogram histogram = new SizeSketch().toHistogram();
+
+        assertEquals(0L, histogram.getCount());
+        assertTrue(histogram.getBuckets().isEmpty());
+    }
+
+    @Test
+    void quantilesAreWithinFewPercent() {
+        SizeSketch sketch = new SizeSketch();
+        for (long value = 1; value <= 100_000; value++) {
+            sketch.add(value);
+        }
+
+        SizeHistogram histogram = sketch.toHistogram();
+
+        assertEquals(100_000L, histogram.getCount());
+        assertEquals(1L, histogram.getMinBytes());
+        assertEquals(100_000L, histogram.getMaxBytes());
+        assertEquals(50_000.5, histogram.getMeanBytes(), 1e-9);
+        assertWithin(50_000, histogram.getP50Bytes());
+        assertWithin(90_000, histogram.getP90Bytes());
+        assertWithin(99_000, histogram.getP99Bytes());
+    }
+
+    @Test
+    void singleValueIsReportedExactly() {
+        SizeSketch sketch = new SizeSketch();
+        sketch.add(1100);
+
+        SizeHistogram histogram = sketch.toHistogram();
+
+        assertEquals(1100L, histogram.getP50Bytes());
+        assertEquals(1100L, histogram.getP99Bytes());
+    }
+
+    @Test
+    void mergeCombinesCounts() {
+        SizeSketch left = new SizeSketch();
+        SizeSketch right = new SizeSketch();
+        left.add(10);
+        right.add(5000);
+        right.add(Long.MAX_VALUE);
+
+        left.merge(right);
+        SizeHistogram histogram = left.toHistogram();
+
+        assertEquals(3L, histogram.getCount());
+        assertEquals(10L, histogram.getMinBytes());
+        assertEquals(Long.MAX_VALUE, histogram.getMaxBytes());
+        assertEquals(3L, histogram.getBuckets().stream().mapToLong(SizeHistogram.Bucket::getCount).sum());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.04,
+                () -> "expected ~" + expected + " but was " + actual);
+    }
+}
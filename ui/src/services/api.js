@@ -29,6 +29,11 @@ export const namespaceAPI = {
 
     getSets: (namespace) =>
         apiClient.get(`/namespaces/${namespace}/sets`),
+
+    getSetProfile: (namespace, setName, sampleFraction, refresh = false) =>
+        apiClient.get(`/namespaces/${namespace}/sets/${setName}/profile`, {
+            params: { sampleFraction, refresh },
+        }),
 };
 
 // Record API
@@ -51,6 +56,21 @@ export const recordAPI = {
         apiClient.delete(`/records/${namespace}/${setName}/${key}`),
 };
 
+// Result set API
+export const resultSetAPI = {
+    open: (namespace, setName, maxRecords = 10000) =>
+        apiClient.post('/result-sets', { namespace, setName, maxRecords }),
+
+    list: () =>
+        apiClient.get('/result-sets'),
+
+    query: (id, query) =>
+        apiClient.post(`/result-sets/${id}/query`, query),
+
+    release: (id) =>
+        apiClient.delete(`/result-sets/${id}`),
+};
+
 // Error interceptor
 apiClient.interceptors.response.use(
     (response) => response,